@@ -12,6 +12,7 @@ public class AIPlayer {
     private char humanPlayer = 'X';
     private int difficulty = 3; // default Hard
     private Random rand = new Random();
+    private long nodesSearched = 0; // nodes visited by the last findBestMove
 
     public AIPlayer() {}
     public AIPlayer(int level) { setDifficulty(level); }
@@ -21,8 +22,11 @@ public class AIPlayer {
         this.difficulty = level;
     }
 
+    public long getNodesSearched() { return nodesSearched; }
+
     public int findBestMove(GameBoard board) {
         char[] b = board.getBoardCopy();
+        nodesSearched = 0;
 
         // Level 1 → Random
         if (difficulty == 1) {
@@ -64,6 +68,7 @@ public class AIPlayer {
      * Minimax with Alpha–Beta pruning and depth-based scoring.
      */
     private int minimax(char[] b, int depth, boolean isMax, int alpha, int beta, int maxDepth) {
+        nodesSearched++;
         char result = evaluateBoard(b);
         if (result != ' ' || depth >= maxDepth) {
             return score(result, depth);
@@ -0,0 +1,96 @@
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import jdk.jfr.consumer.*;
+
+/**
+ * LatencyAnalyzer: turns a .jfr recording into a per-stage latency breakdown
+ * of the tictactoe.* events emitted by LatencyEvents.
+ * Usage: java LatencyAnalyzer moves.jfr
+ */
+public class LatencyAnalyzer {
+    // report order follows the path of one turn
+    private static final String[] STAGES = {"HumanMove", "Evaluate", "AISearch", "Render", "ScoreSave", "MoveTurn"};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java LatencyAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+
+        Map<String, List<Long>> durations = new LinkedHashMap<>();
+        for (String stage : STAGES) durations.put(stage, new ArrayList<>());
+        Map<Integer, List<Long>> nodesByDifficulty = new TreeMap<>();
+        Map<Integer, List<Long>> searchByDifficulty = new TreeMap<>();
+        long bytesWritten = 0;
+        int ponderHits = 0;
+        int searches = 0;
+        long savedNanos = 0;
+
+        for (RecordedEvent e : RecordingFile.readAllEvents(Paths.get(args[0]))) {
+            String name = e.getEventType().getName();
+            if (!name.startsWith(LatencyEvents.PREFIX)) continue;
+            String stage = name.substring(LatencyEvents.PREFIX.length());
+            long micros = e.getDuration().toNanos() / 1000;
+            durations.computeIfAbsent(stage, k -> new ArrayList<>()).add(micros);
+
+            if (stage.equals("AISearch")) {
+                int level = e.getInt("difficulty");
+                nodesByDifficulty.computeIfAbsent(level, k -> new ArrayList<>()).add(e.getLong("nodes"));
+                searchByDifficulty.computeIfAbsent(level, k -> new ArrayList<>()).add(micros);
+                searches++;
+                if (e.getBoolean("pondered")) {
+                    ponderHits++;
+                    savedNanos += e.getDuration("saved").toNanos();
+                }
+            } else if (stage.equals("ScoreSave")) {
+                bytesWritten += e.getLong("bytes");
+            }
+        }
+
+        System.out.printf("%-10s %7s %10s %10s %10s %10s%n", "Stage", "Count", "Mean(us)", "p50(us)", "p95(us)", "Max(us)");
+        for (Map.Entry<String, List<Long>> entry : durations.entrySet()) {
+            printRow(entry.getKey(), entry.getValue());
+        }
+
+        if (!searchByDifficulty.isEmpty()) {
+            System.out.println();
+            System.out.printf("%-10s %7s %10s %10s %12s%n", "Difficulty", "Moves", "Mean(us)", "p95(us)", "Mean nodes");
+            for (int level : searchByDifficulty.keySet()) {
+                List<Long> times = searchByDifficulty.get(level);
+                Collections.sort(times);
+                System.out.printf("%-10d %7d %10.1f %10d %12.1f%n", level, times.size(),
+                        mean(times), percentile(times, 95), mean(nodesByDifficulty.get(level)));
+            }
+        }
+
+        System.out.println();
+        if (searches > 0) {
+            System.out.printf("Pondered replies: %d/%d (%.0f%% hit rate), search time saved: %.1f ms%n",
+                    ponderHits, searches, 100.0 * ponderHits / searches, savedNanos / 1e6);
+        }
+        System.out.println("Leaderboard bytes written: " + bytesWritten);
+    }
+
+    private static void printRow(String stage, List<Long> values) {
+        if (values.isEmpty()) {
+            System.out.printf("%-10s %7d %10s %10s %10s %10s%n", stage, 0, "-", "-", "-", "-");
+            return;
+        }
+        Collections.sort(values);
+        System.out.printf("%-10s %7d %10.1f %10d %10d %10d%n", stage, values.size(), mean(values),
+                percentile(values, 50), percentile(values, 95), values.get(values.size() - 1));
+    }
+
+    private static double mean(List<Long> values) {
+        long sum = 0;
+        for (long v : values) sum += v;
+        return values.isEmpty() ? 0 : (double) sum / values.size();
+    }
+
+    // nearest-rank percentile; values must be sorted
+    private static long percentile(List<Long> sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+}
@@ -0,0 +1,73 @@
+import jdk.jfr.*;
+
+/**
+ * LatencyEvents: custom Java Flight Recorder events for the click-to-render path.
+ * Record with:  java -XX:StartFlightRecording=filename=moves.jfr TicTacToeGUI
+ * Analyse with: java LatencyAnalyzer moves.jfr
+ *
+ * Stages of one turn (all on the Swing event thread):
+ *   HumanMove  - button action: place human symbol (evaluation is its own stage)
+ *   AISearch   - AIPlayer.findBestMove, or a pondered reply (nodes searched)
+ *   Evaluate   - winner check after each move
+ *   ScoreSave  - ScoreManager.mergeAndSave (bytes written)
+ *   Render     - repaint drain after the AI reply is placed
+ *   MoveTurn   - whole turn, click to rendered AI reply
+ */
+public class LatencyEvents {
+    public static final String PREFIX = "tictactoe.";
+
+    private LatencyEvents() {}
+
+    @Name(PREFIX + "HumanMove")
+    @Label("Human Move")
+    @Category({"Tic Tac Toe", "Move Latency"})
+    public static final class HumanMove extends Event {
+        @Label("Player") public String player;
+        @Label("Cell") public int cell;
+    }
+
+    @Name(PREFIX + "AISearch")
+    @Label("AI Search")
+    @Category({"Tic Tac Toe", "Move Latency"})
+    public static final class AISearch extends Event {
+        @Label("Player") public String player;
+        @Label("Difficulty") public int difficulty;
+        @Label("Nodes Searched") public long nodes;
+        @Label("Cell") public int cell;
+        @Label("Pondered") @Description("Reply was precomputed during the human's turn") public boolean pondered;
+        @Label("Search Time Saved") @Timespan public long saved;
+    }
+
+    @Name(PREFIX + "Evaluate")
+    @Label("Evaluate Game")
+    @Category({"Tic Tac Toe", "Move Latency"})
+    public static final class Evaluate extends Event {
+        @Label("Player") public String player;
+        @Label("Result") public char result;
+    }
+
+    @Name(PREFIX + "ScoreSave")
+    @Label("Score Save")
+    @Category({"Tic Tac Toe", "Move Latency"})
+    public static final class ScoreSave extends Event {
+        @Label("Player") public String player;
+        @Label("Bytes Written") @DataAmount public long bytes;
+    }
+
+    @Name(PREFIX + "Render")
+    @Label("Render")
+    @Category({"Tic Tac Toe", "Move Latency"})
+    public static final class Render extends Event {
+        @Label("Player") public String player;
+    }
+
+    @Name(PREFIX + "MoveTurn")
+    @Label("Move Turn")
+    @Description("Click on a cell until the AI reply has been painted")
+    @Category({"Tic Tac Toe", "Move Latency"})
+    public static final class MoveTurn extends Event {
+        @Label("Player") public String player;
+        @Label("Difficulty") public int difficulty;
+        @Label("Nodes Searched") public long nodes;
+    }
+}
@@ -0,0 +1,167 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Ponderer: while the human is thinking, searches the AI's reply to every
+ * possible human move on a background thread (most likely human move first).
+ * When the human clicks, the precomputed reply is served with take(cell, board),
+ * but only if it was computed for the position now on the board.
+ * cancel() drops speculative work between candidate moves; a search already
+ * running is not interrupted (one 3x3 search is cheap) and its result is discarded.
+ * Disable with -Dtictactoe.ponder=false.
+ */
+public class Ponderer {
+    /** Precomputed AI reply for one human move. */
+    public static final class Reply {
+        public final int move;
+        public final long nodes;
+        public final long nanos; // time the search took in the background
+
+        Reply(int move, long nodes, long nanos) {
+            this.move = move;
+            this.nodes = nodes;
+            this.nanos = nanos;
+        }
+    }
+
+    private final AIPlayer ai;   // own instance: AIPlayer is not thread-safe
+    private final char humanSymbol;
+    private final char aiSymbol;
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("tictactoe.ponder", "true"));
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ai-ponder");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    // fresh map per start() so a late write from cancelled work can't leak into a new position
+    private volatile Map<Integer, Reply> replies = new ConcurrentHashMap<>();
+    private char[] position;             // position being pondered, null when idle
+    // bumped on cancel; checked between candidate moves, not inside a running search
+    private volatile int generation = 0;
+    private Future<?> task;
+
+    // stats (only touched from the Swing thread)
+    private int hits = 0;
+    private int misses = 0;
+    private long savedNanos = 0;
+
+    public Ponderer(int difficulty, char humanSymbol, char aiSymbol) {
+        this.ai = new AIPlayer(difficulty);
+        this.humanSymbol = humanSymbol;
+        this.aiSymbol = aiSymbol;
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * Start pondering on a position where the human is to move.
+     * Any previous speculative work is cancelled.
+     */
+    public void start(char[] position) {
+        cancel();
+        if (!enabled) return;
+        final int gen = generation;
+        final char[] b = position.clone();
+        final Map<Integer, Reply> results = new ConcurrentHashMap<>();
+        replies = results;
+        this.position = b;
+        task = worker.submit(() -> {
+            for (int cell : orderByLikelihood(b)) {
+                if (gen != generation || Thread.currentThread().isInterrupted()) return;
+                GameBoard next = toBoard(b);
+                next.makeMove(cell, humanSymbol);
+                if (next.checkWinner() != ' ') continue; // no AI reply needed
+                long t0 = System.nanoTime();
+                int move = ai.findBestMove(next);
+                Reply reply = new Reply(move, ai.getNodesSearched(), System.nanoTime() - t0);
+                results.put(cell, reply);
+            }
+        });
+    }
+
+    /**
+     * Take the precomputed reply to the human move on cell, or null if it is
+     * not ready yet or board is not the pondered position plus that move.
+     * Only replies returned here count as hits. Either way the remaining
+     * speculative work is cancelled.
+     */
+    public Reply take(int cell, GameBoard board) {
+        Reply reply = enabled ? replies.get(cell) : null;
+        char[] pondered = position;
+        cancel();
+        if (!enabled) return null;
+        if (reply != null && !matches(pondered, cell, board)) reply = null;
+        if (reply != null) {
+            hits++;
+            savedNanos += reply.nanos;
+        } else {
+            misses++;
+        }
+        return reply;
+    }
+
+    public void cancel() {
+        generation++;
+        if (task != null) {
+            task.cancel(true);
+            task = null;
+        }
+        replies = new ConcurrentHashMap<>();
+        position = null;
+    }
+
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+    public long getSavedMillis() { return savedNanos / 1_000_000; }
+
+    public double getHitRate() {
+        int total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    // true when board is exactly the pondered position with the human move on cell
+    private boolean matches(char[] pondered, int cell, GameBoard board) {
+        if (pondered == null || cell < 0 || cell >= 9 || pondered[cell] != ' ') return false;
+        char[] expected = pondered.clone();
+        expected[cell] = humanSymbol;
+        return Arrays.equals(expected, board.getBoardCopy());
+    }
+
+    /**
+     * Human moves ordered by how likely they are to be played:
+     * winning moves, then blocks of an AI win, then centre, corners, edges.
+     */
+    private List<Integer> orderByLikelihood(char[] b) {
+        int[] preference = {4, 0, 2, 6, 8, 1, 3, 5, 7};
+        List<Integer> wins = new ArrayList<>();
+        List<Integer> blocks = new ArrayList<>();
+        List<Integer> rest = new ArrayList<>();
+        for (int cell : preference) {
+            if (b[cell] != ' ') continue;
+            if (completesLine(b, cell, humanSymbol)) wins.add(cell);
+            else if (completesLine(b, cell, aiSymbol)) blocks.add(cell);
+            else rest.add(cell);
+        }
+        List<Integer> order = new ArrayList<>(wins);
+        order.addAll(blocks);
+        order.addAll(rest);
+        return order;
+    }
+
+    private boolean completesLine(char[] b, int cell, char symbol) {
+        b[cell] = symbol;
+        boolean won = toBoard(b).checkWinner() == symbol;
+        b[cell] = ' ';
+        return won;
+    }
+
+    private GameBoard toBoard(char[] b) {
+        GameBoard board = new GameBoard();
+        for (int i = 0; i < 9; i++) {
+            if (b[i] != ' ') board.makeMove(i, b[i]);
+        }
+        return board;
+    }
+}
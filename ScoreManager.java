@@ -42,6 +42,8 @@ public class ScoreManager {
      * This will add stats if player exists, or create new entry.
      */
     public static void mergeAndSave(Map<String, Player> cumulativeMap, Player sessionPlayer) {
+        LatencyEvents.ScoreSave event = new LatencyEvents.ScoreSave();
+        event.begin();
         Player existing = cumulativeMap.get(sessionPlayer.getName());
         if (existing == null) {
             // clone sessionPlayer into cumulative map
@@ -57,5 +59,11 @@ public class ScoreManager {
             for (int i = 0; i < sessionPlayer.getDraws(); i++) existing.addDraw();
         }
         saveScores(cumulativeMap);
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = sessionPlayer.getName();
+            event.bytes = new File(LEADERBOARD_FILE).length();
+            event.commit();
+        }
     }
 }
@@ -12,6 +12,7 @@ public class TicTacToeGUI extends JFrame {
     private JButton[] cells = new JButton[9];
     private GameBoard board = new GameBoard();
     private AIPlayer ai;
+    private Ponderer ponderer;                           // precomputes AI replies on the human's turn
     private char humanSymbol = 'X';
     private char aiSymbol = 'O';
     private boolean humanTurn = true;
@@ -41,6 +42,7 @@ public class TicTacToeGUI extends JFrame {
 
         // set AI
         ai = new AIPlayer(difficultyLevel);
+        ponderer = new Ponderer(difficultyLevel, humanSymbol, aiSymbol);
 
         // initialize UI and start first player's game
         initUI();
@@ -239,34 +241,82 @@ public class TicTacToeGUI extends JFrame {
             b.setBackground(BTN_COLOR);
         }
         humanTurn = true;
+        ponderer.start(board.getBoardCopy());
         statusLabel.setText(currentPlayer.getName() + " - Your move (" + humanSymbol + ") - Difficulty: " + getLevelName());
     }
 
     private void doHumanMove(int idx) {
+        LatencyEvents.MoveTurn turn = new LatencyEvents.MoveTurn();
+        turn.begin();
+        LatencyEvents.HumanMove event = new LatencyEvents.HumanMove();
+        event.begin();
         if (!board.makeMove(idx, humanSymbol)) return;
         cells[idx].setText(String.valueOf(humanSymbol));
         cells[idx].setEnabled(false);
+        event.player = currentPlayer.getName();
+        event.cell = idx;
+        event.commit();
+        char result = board.checkWinner(); // read before evaluateGame, which may reset the board for the next player
         evaluateGame();
-        if (board.checkWinner() == ' ') {
+        if (result == ' ') {
             humanTurn = false;
-            SwingUtilities.invokeLater(() -> doAIMove());
+            SwingUtilities.invokeLater(() -> doAIMove(idx, turn));
         }
     }
 
-    private void doAIMove() {
-        int move = ai.findBestMove(board);
+    private void doAIMove(int humanMove, LatencyEvents.MoveTurn turn) {
+        LatencyEvents.AISearch search = new LatencyEvents.AISearch();
+        search.begin();
+        int move;
+        Ponderer.Reply reply = ponderer.take(humanMove, board);
+        if (reply != null) {
+            move = reply.move;
+            search.nodes = reply.nodes;
+            search.pondered = true;
+            search.saved = reply.nanos;
+        } else {
+            move = ai.findBestMove(board);
+            search.nodes = ai.getNodesSearched();
+        }
+        search.end();
+        search.player = currentPlayer.getName();
+        search.difficulty = difficultyLevel;
+        search.cell = move;
+        search.commit();
         if (move >= 0) {
             board.makeMove(move, aiSymbol);
             cells[move].setText(String.valueOf(aiSymbol));
             cells[move].setEnabled(false);
             cells[move].setBackground(new Color(255, 118, 117));
         }
-        evaluateGame();
-        humanTurn = true;
+
+        // the repaint requested above is queued ahead of this, so it marks the frame being on screen;
+        // evaluation runs only after the turn is committed so result dialogs aren't timed as rendering
+        LatencyEvents.Render render = new LatencyEvents.Render();
+        render.begin();
+        String playerName = currentPlayer.getName();
+        SwingUtilities.invokeLater(() -> {
+            render.player = playerName;
+            render.commit();
+            turn.player = playerName;
+            turn.difficulty = difficultyLevel;
+            turn.nodes = search.nodes;
+            turn.commit();
+
+            char result = board.checkWinner();
+            evaluateGame(); // on a game end this resets the board and restarts pondering itself
+            humanTurn = true;
+            if (result == ' ') ponderer.start(board.getBoardCopy());
+        });
     }
 
     private void evaluateGame() {
+        LatencyEvents.Evaluate event = new LatencyEvents.Evaluate();
+        event.begin();
         char result = board.checkWinner();
+        event.player = currentPlayer.getName();
+        event.result = result;
+        event.commit(); // committed before any result dialog so user think-time isn't counted
         if (result == humanSymbol) {
             fancyMessage("🎉 " + currentPlayer.getName() + " Wins!");
             currentPlayer.addWin();
@@ -348,8 +398,15 @@ public class TicTacToeGUI extends JFrame {
             winnerText = "🏆 Winners of this Round: " + String.join(", ", winners);
         }
 
-        // Show winner
-        JOptionPane.showMessageDialog(this, winnerText, "Round Winner", JOptionPane.INFORMATION_MESSAGE);
+        // Show winner (plus pondering stats when enabled)
+        ponderer.cancel();
+        String dialogText = winnerText;
+        if (ponderer.isEnabled()) {
+            dialogText += String.format("%nAI replies precomputed: %d/%d (%.0f%% hit rate), %d ms of search saved",
+                    ponderer.getHits(), ponderer.getHits() + ponderer.getMisses(),
+                    ponderer.getHitRate() * 100, ponderer.getSavedMillis());
+        }
+        JOptionPane.showMessageDialog(this, dialogText, "Round Winner", JOptionPane.INFORMATION_MESSAGE);
 
         // Show cumulative leaderboard JTable (sorted by wins desc)
         showCumulativeLeaderboardTable();
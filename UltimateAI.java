@@ -0,0 +1,157 @@
+/**
+ * UltimateAI: time-bounded search for UltimateBoard.
+ * The game tree is far too large for the exhaustive AIPlayer.minimax, so this
+ * uses iterative deepening negamax with Alpha-Beta pruning and history move
+ * ordering, returning the best move of the deepest fully searched iteration.
+ */
+public class UltimateAI {
+    private static final int WIN_SCORE = 100000;
+    private static final int MAX_PLY = UltimateBoard.MAX_MOVES + 1;
+
+    // one move buffer per ply so the search never allocates
+    private final int[][] moves = new int[MAX_PLY][UltimateBoard.MAX_MOVES];
+    private final int[] history = new int[UltimateBoard.MAX_MOVES];
+    private long timeLimitMillis = 1000;
+    private int maxDepth = MAX_PLY;
+
+    private long deadline;
+    private boolean aborted;
+    private long nodesSearched = 0;
+    private int completedDepth = 0;
+
+    public UltimateAI() {}
+    public UltimateAI(long timeLimitMillis) { setTimeLimit(timeLimitMillis); }
+
+    public void setTimeLimit(long millis) {
+        this.timeLimitMillis = Math.max(1, millis);
+    }
+
+    // cap the iterative deepening, e.g. for reproducible benchmarks
+    public void setMaxDepth(int depth) {
+        this.maxDepth = Math.max(1, Math.min(depth, MAX_PLY));
+    }
+
+    public long getNodesSearched() { return nodesSearched; }
+    public int getCompletedDepth() { return completedDepth; }
+
+    public int findBestMove(UltimateBoard board) {
+        deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+        aborted = false;
+        nodesSearched = 0;
+        completedDepth = 0;
+        for (int i = 0; i < history.length; i++) history[i] = 0;
+
+        int[] rootMoves = moves[0];
+        int n = board.generateMoves(rootMoves);
+        if (n == 0) return -1;
+        if (n == 1) return rootMoves[0]; // forced, nothing to search
+        int bestMove = rootMoves[0];
+
+        int depthLeft = UltimateBoard.MAX_MOVES - board.getPly();
+        for (int depth = 1; depth <= Math.min(maxDepth, depthLeft); depth++) {
+            int alpha = -WIN_SCORE - 1;
+            int iterationBest = -1;
+            for (int i = 0; i < n; i++) {
+                int move = rootMoves[i];
+                board.makeMove(move);
+                int score = -negamax(board, depth - 1, -WIN_SCORE - 1, -alpha, 1);
+                board.undoMove();
+                if (aborted) break;
+                if (score > alpha) {
+                    alpha = score;
+                    iterationBest = i;
+                }
+            }
+            if (aborted || iterationBest < 0) break;
+
+            // search the previous best move first in the next iteration
+            bestMove = rootMoves[iterationBest];
+            rootMoves[iterationBest] = rootMoves[0];
+            rootMoves[0] = bestMove;
+            completedDepth = depth;
+            if (Math.abs(alpha) >= WIN_SCORE - MAX_PLY) break; // forced result found
+        }
+        return bestMove;
+    }
+
+    private int negamax(UltimateBoard board, int depth, int alpha, int beta, int ply) {
+        nodesSearched++;
+        if ((nodesSearched & 1023) == 0 && System.nanoTime() > deadline) aborted = true;
+        if (aborted) return 0;
+
+        char result = board.checkWinner();
+        if (result == 'D') return 0;
+        if (result != ' ') return -(WIN_SCORE - ply); // the previous mover won
+        if (depth <= 0) return evaluate(board);
+
+        int[] list = moves[ply];
+        int n = board.generateMoves(list);
+        if (n == 0) return 0;
+        orderByHistory(list, n);
+
+        int best = -WIN_SCORE - 1;
+        for (int i = 0; i < n; i++) {
+            int move = list[i];
+            board.makeMove(move);
+            int val = -negamax(board, depth - 1, -beta, -alpha, ply + 1);
+            board.undoMove();
+            if (aborted) return 0;
+            if (val > best) best = val;
+            if (best > alpha) alpha = best;
+            if (alpha >= beta) {
+                history[move] += depth * depth;
+                break; // pruning
+            }
+        }
+        return best;
+    }
+
+    // insertion sort, best history score first (n <= 81)
+    private void orderByHistory(int[] list, int n) {
+        for (int i = 1; i < n; i++) {
+            int m = list[i];
+            int h = history[m];
+            int j = i - 1;
+            while (j >= 0 && history[list[j]] < h) {
+                list[j + 1] = list[j];
+                j--;
+            }
+            list[j + 1] = m;
+        }
+    }
+
+    /**
+     * Static evaluation from the side to move's point of view:
+     * won sub-boards and open meta-board lines weigh most, then
+     * unblocked two-in-a-rows inside the open sub-boards.
+     */
+    int evaluate(UltimateBoard board) {
+        int score = 0;
+        int metaX = board.metaX, metaO = board.metaO, metaDraw = board.metaDraw;
+
+        for (int line : UltimateBoard.LINES) {
+            if ((metaDraw & line) != 0) continue;
+            int x = Integer.bitCount(metaX & line);
+            int o = Integer.bitCount(metaO & line);
+            if (o == 0) score += x == 2 ? 400 : x * 60;
+            if (x == 0) score -= o == 2 ? 400 : o * 60;
+        }
+        score += Integer.bitCount(metaX) * 100 - Integer.bitCount(metaO) * 100;
+        if ((metaX & (1 << 4)) != 0) score += 50;
+        if ((metaO & (1 << 4)) != 0) score -= 50;
+
+        int open = ~(metaX | metaO | metaDraw) & 0b111111111;
+        while (open != 0) {
+            int sub = Integer.numberOfTrailingZeros(open);
+            open &= open - 1;
+            int xs = board.xs[sub], os = board.os[sub];
+            for (int line : UltimateBoard.LINES) {
+                int x = Integer.bitCount(xs & line);
+                int o = Integer.bitCount(os & line);
+                if (o == 0) score += x == 2 ? 12 : x;
+                if (x == 0) score -= o == 2 ? 12 : o;
+            }
+        }
+        return board.getSideToMove() == 'X' ? score : -score;
+    }
+}
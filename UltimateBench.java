@@ -0,0 +1,261 @@
+import java.util.*;
+
+/**
+ * UltimateBench: perft move-generation checks and nodes/sec benchmarks for UltimateBoard/UltimateAI.
+ * Usage: java UltimateBench [perftDepth] [searchMillis]
+ * Exits with status 1 if any correctness check fails.
+ */
+public class UltimateBench {
+    // perft node counts from the empty board, verified against the reference generator below
+    private static final long[] PERFT = {1, 81, 720, 6336, 55080, 473256, 4020960, 33782544};
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        int perftDepth = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+        long searchMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+
+        checkPerftTable(Math.min(perftDepth, PERFT.length - 1));
+        checkAgainstReference(5);
+        checkRandomGames(2000);
+        benchPerft(perftDepth);
+        benchSearch(searchMillis);
+        benchFixedDepth(8);
+
+        if (failures > 0) {
+            System.out.println(failures + " check(s) FAILED");
+            System.exit(1);
+        }
+        System.out.println("All checks passed");
+    }
+
+    // ---- correctness ----
+
+    private static void checkPerftTable(int maxDepth) {
+        UltimateBoard board = new UltimateBoard();
+        int[][] buf = new int[maxDepth + 1][UltimateBoard.MAX_MOVES];
+        for (int d = 1; d <= maxDepth; d++) {
+            long nodes = perft(board, d, buf);
+            check(nodes == PERFT[d], "perft(" + d + ") = " + nodes + ", expected " + PERFT[d]);
+        }
+        check(board.getPly() == 0 && board.getForcedSubBoard() == UltimateBoard.ANY, "board not restored after perft");
+    }
+
+    // perft from a handful of random mid-game positions, engine vs reference
+    private static void checkAgainstReference(int depth) {
+        Random rand = new Random(26);
+        int[] moves = new int[UltimateBoard.MAX_MOVES];
+        int[][] buf = new int[depth + 1][UltimateBoard.MAX_MOVES];
+        for (int game = 0; game < 20; game++) {
+            UltimateBoard board = new UltimateBoard();
+            Reference ref = new Reference();
+            int plies = 10 + rand.nextInt(30);
+            for (int p = 0; p < plies; p++) {
+                int n = board.generateMoves(moves);
+                if (n == 0) break;
+                int m = moves[rand.nextInt(n)];
+                board.makeMove(m);
+                ref = ref.play(m);
+            }
+            long got = perft(board, depth, buf);
+            long want = ref.perft(depth);
+            check(got == want, "perft(" + depth + ") from game " + game + " = " + got + ", reference " + want);
+        }
+    }
+
+    // random playouts: legal move sets match the reference and undo restores every state
+    private static void checkRandomGames(int games) {
+        Random rand = new Random(28);
+        int[] moves = new int[UltimateBoard.MAX_MOVES];
+        for (int game = 0; game < games; game++) {
+            UltimateBoard board = new UltimateBoard();
+            Reference ref = new Reference();
+            List<String> snapshots = new ArrayList<>();
+            while (true) {
+                int n = board.generateMoves(moves);
+                List<Integer> want = ref.legalMoves();
+                List<Integer> got = new ArrayList<>();
+                for (int i = 0; i < n; i++) got.add(moves[i]);
+                Collections.sort(got);
+                if (!check(got.equals(want), "game " + game + " ply " + board.getPly() + ": moves " + got + ", reference " + want)) return;
+                if (!check(board.checkWinner() == ref.winner(), "game " + game + ": winner " + board.checkWinner() + ", reference " + ref.winner())) return;
+                if (n == 0) break;
+                snapshots.add(snapshot(board));
+                int m = moves[rand.nextInt(n)];
+                board.makeMove(m);
+                ref = ref.play(m);
+            }
+            for (int i = snapshots.size() - 1; i >= 0; i--) {
+                board.undoMove();
+                if (!check(snapshot(board).equals(snapshots.get(i)), "game " + game + ": undo mismatch at ply " + i)) return;
+            }
+        }
+    }
+
+    // ---- benchmarks ----
+
+    private static void benchPerft(int depth) {
+        UltimateBoard board = new UltimateBoard();
+        int[][] buf = new int[depth + 1][UltimateBoard.MAX_MOVES];
+        perft(board, Math.min(depth, 5), buf); // warm up
+        long t0 = System.nanoTime();
+        long nodes = perft(board, depth, buf);
+        long nanos = System.nanoTime() - t0;
+        System.out.printf("perft(%d): %d nodes in %d ms, %.1f Mnodes/sec%n",
+                depth, nodes, nanos / 1_000_000, nodes * 1000.0 / nanos);
+    }
+
+    private static void benchSearch(long millis) {
+        Random rand = new Random(27);
+        int[] moves = new int[UltimateBoard.MAX_MOVES];
+        UltimateAI ai = new UltimateAI(millis);
+        long totalNodes = 0, totalNanos = 0;
+        for (int pos = 0; pos < 5; pos++) {
+            UltimateBoard board = new UltimateBoard();
+            for (int p = 0; p < pos * 6; p++) {
+                int n = board.generateMoves(moves);
+                if (n == 0) break;
+                board.makeMove(moves[rand.nextInt(n)]);
+            }
+            if (board.checkWinner() != ' ') continue;
+            long t0 = System.nanoTime();
+            int best = ai.findBestMove(board);
+            long nanos = System.nanoTime() - t0;
+            check(board.isLegal(best), "search returned illegal move " + best);
+            totalNodes += ai.getNodesSearched();
+            totalNanos += nanos;
+            System.out.printf("search ply %2d: move %2d, depth %2d, %d nodes, %.1f knodes/sec%n",
+                    board.getPly(), best, ai.getCompletedDepth(), ai.getNodesSearched(),
+                    ai.getNodesSearched() * 1_000_000.0 / nanos);
+        }
+        if (totalNanos > 0) {
+            System.out.printf("search overall: %.1f knodes/sec%n", totalNodes * 1_000_000.0 / totalNanos);
+        }
+    }
+
+    // fixed depth, so node counts are the same on every run and only the rate varies
+    private static void benchFixedDepth(int depth) {
+        Random rand = new Random(27);
+        int[] moves = new int[UltimateBoard.MAX_MOVES];
+        UltimateAI ai = new UltimateAI(60_000); // generous cap; depth is the real bound
+        ai.setMaxDepth(depth);
+        long totalNodes = 0, totalNanos = 0;
+        for (int pos = 0; pos < 5; pos++) {
+            UltimateBoard board = new UltimateBoard();
+            for (int p = 0; p < pos * 6; p++) {
+                int n = board.generateMoves(moves);
+                if (n == 0) break;
+                board.makeMove(moves[rand.nextInt(n)]);
+            }
+            if (board.checkWinner() != ' ') continue;
+            long t0 = System.nanoTime();
+            ai.findBestMove(board);
+            totalNanos += System.nanoTime() - t0;
+            totalNodes += ai.getNodesSearched();
+        }
+        if (totalNanos > 0) {
+            System.out.printf("search depth %d: %d nodes, %.1f knodes/sec%n",
+                    depth, totalNodes, totalNodes * 1_000_000.0 / totalNanos);
+        }
+    }
+
+    // ---- helpers ----
+
+    private static long perft(UltimateBoard board, int depth, int[][] buf) {
+        if (depth == 0) return 1;
+        int[] list = buf[depth];
+        int n = board.generateMoves(list);
+        if (depth == 1) return n;
+        long nodes = 0;
+        for (int i = 0; i < n; i++) {
+            board.makeMove(list[i]);
+            nodes += perft(board, depth - 1, buf);
+            board.undoMove();
+        }
+        return nodes;
+    }
+
+    private static String snapshot(UltimateBoard b) {
+        return Arrays.toString(b.xs) + Arrays.toString(b.os) + b.metaX + "," + b.metaO + "," + b.metaDraw
+                + "," + b.forced + "," + b.side + "," + b.ply;
+    }
+
+    private static boolean check(boolean ok, String msg) {
+        if (!ok) {
+            failures++;
+            System.out.println("FAIL: " + msg);
+        }
+        return ok;
+    }
+
+    /**
+     * Straightforward reference implementation of the rules: char cells, one
+     * GameBoard-style win check per sub-board, copy on every move.
+     */
+    private static final class Reference {
+        final char[] cells = new char[81];
+        final char[] meta = new char[9];
+        int forced = -1;
+        char toMove = 'X';
+
+        Reference() {
+            Arrays.fill(cells, ' ');
+            Arrays.fill(meta, ' ');
+        }
+
+        Reference play(int move) {
+            Reference r = new Reference();
+            System.arraycopy(cells, 0, r.cells, 0, 81);
+            System.arraycopy(meta, 0, r.meta, 0, 9);
+            int sub = move / 9;
+            r.cells[move] = toMove;
+            r.meta[sub] = winner(Arrays.copyOfRange(r.cells, sub * 9, sub * 9 + 9));
+            int next = move % 9;
+            r.forced = r.meta[next] == ' ' ? next : -1;
+            r.toMove = toMove == 'X' ? 'O' : 'X';
+            return r;
+        }
+
+        char winner() {
+            char w = winner(meta);
+            if (w == 'X' || w == 'O') return w;
+            for (char c : meta) if (c == ' ') return ' ';
+            return 'D';
+        }
+
+        List<Integer> legalMoves() {
+            List<Integer> list = new ArrayList<>();
+            char w = winner();
+            if (w == 'X' || w == 'O') return list;
+            for (int m = 0; m < 81; m++) {
+                int sub = m / 9;
+                if (meta[sub] != ' ' || cells[m] != ' ') continue;
+                if (forced >= 0 && sub != forced) continue;
+                list.add(m);
+            }
+            return list;
+        }
+
+        long perft(int depth) {
+            if (depth == 0) return 1;
+            long nodes = 0;
+            for (int m : legalMoves()) nodes += play(m).perft(depth - 1);
+            return nodes;
+        }
+
+        // 'X'/'O' for a full line, 'D' when full, ' ' otherwise (same as GameBoard.checkWinner)
+        private static char winner(char[] b) {
+            int[][] lines = {
+                {0,1,2},{3,4,5},{6,7,8},
+                {0,3,6},{1,4,7},{2,5,8},
+                {0,4,8},{2,4,6}
+            };
+            for (int[] line : lines) {
+                char a = b[line[0]], c = b[line[1]], d = b[line[2]];
+                if ((a == 'X' || a == 'O') && a == c && c == d) return a;
+            }
+            for (char ch : b) if (ch == ' ') return ' ';
+            return 'D';
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * UltimateBoard: 9x9 "ultimate" tic tac toe on packed bitboards.
+ * Nine 3x3 sub-boards (same cell layout as GameBoard, 0..8), each stored as a
+ * 9-bit mask per player, plus 9-bit meta-board masks of won/drawn sub-boards.
+ *
+ * A move is encoded as sub * 9 + cell (0..80). Playing in cell c sends the
+ * opponent to sub-board c; if that sub-board is already decided they may
+ * play in any open sub-board. Move generation and make/unmake never allocate.
+ */
+public class UltimateBoard {
+    public static final int MAX_MOVES = 81;
+    public static final int ANY = -1; // no forced sub-board
+
+    // WIN[mask] is true when the 9-bit mask contains a full line
+    static final boolean[] WIN = new boolean[512];
+    static final int[] LINES = {
+        0b000000111, 0b000111000, 0b111000000, // rows
+        0b001001001, 0b010010010, 0b100100100, // cols
+        0b100010001, 0b001010100               // diagonals
+    };
+    private static final int FULL = 0b111111111;
+
+    static {
+        for (int m = 0; m < 512; m++) {
+            for (int line : LINES) {
+                if ((m & line) == line) { WIN[m] = true; break; }
+            }
+        }
+    }
+
+    final int[] xs = new int[9];  // X stones per sub-board
+    final int[] os = new int[9];  // O stones per sub-board
+    int metaX, metaO, metaDraw;   // decided sub-boards
+    int forced = ANY;             // sub-board the side to move must play in
+    int side = 0;                 // 0 = X to move, 1 = O to move
+    int ply = 0;
+
+    // undo stack (a game lasts at most 81 plies)
+    private final int[] moveStack = new int[MAX_MOVES];
+    private final int[] forcedStack = new int[MAX_MOVES];
+
+    public UltimateBoard() {}
+
+    public void clear() {
+        for (int i = 0; i < 9; i++) { xs[i] = 0; os[i] = 0; }
+        metaX = metaO = metaDraw = 0;
+        forced = ANY;
+        side = 0;
+        ply = 0;
+    }
+
+    public char getSideToMove() { return side == 0 ? 'X' : 'O'; }
+    public int getForcedSubBoard() { return forced; }
+    public int getPly() { return ply; }
+
+    // Returns 'X', 'O', ' ' for an open cell
+    public char getCell(int sub, int cell) {
+        int bit = 1 << cell;
+        if ((xs[sub] & bit) != 0) return 'X';
+        if ((os[sub] & bit) != 0) return 'O';
+        return ' ';
+    }
+
+    // Returns 'X' or 'O' if won, 'D' if drawn, ' ' if still open
+    public char getSubBoardWinner(int sub) {
+        int bit = 1 << sub;
+        if ((metaX & bit) != 0) return 'X';
+        if ((metaO & bit) != 0) return 'O';
+        if ((metaDraw & bit) != 0) return 'D';
+        return ' ';
+    }
+
+    // Returns 'X' if X wins, 'O' if O wins, 'D' if draw, ' ' if game ongoing
+    public char checkWinner() {
+        if (WIN[metaX]) return 'X';
+        if (WIN[metaO]) return 'O';
+        if ((metaX | metaO | metaDraw) == FULL) return 'D';
+        return ' ';
+    }
+
+    public boolean isLegal(int move) {
+        if (move < 0 || move >= MAX_MOVES || checkWinner() != ' ') return false;
+        int sub = move / 9;
+        if (forced != ANY && sub != forced) return false;
+        if (((metaX | metaO | metaDraw) & (1 << sub)) != 0) return false;
+        return ((xs[sub] | os[sub]) & (1 << (move % 9))) == 0;
+    }
+
+    /**
+     * Writes the legal moves into out (length >= MAX_MOVES) and returns how many.
+     * Returns 0 once the game is over.
+     */
+    public int generateMoves(int[] out) {
+        if (WIN[metaX] || WIN[metaO]) return 0;
+        int n = 0;
+        if (forced != ANY) {
+            n = addMoves(forced, out, n);
+        } else {
+            int open = ~(metaX | metaO | metaDraw) & FULL;
+            while (open != 0) {
+                int sub = Integer.numberOfTrailingZeros(open);
+                open &= open - 1;
+                n = addMoves(sub, out, n);
+            }
+        }
+        return n;
+    }
+
+    private int addMoves(int sub, int[] out, int n) {
+        int empty = ~(xs[sub] | os[sub]) & FULL;
+        int base = sub * 9;
+        while (empty != 0) {
+            out[n++] = base + Integer.numberOfTrailingZeros(empty);
+            empty &= empty - 1;
+        }
+        return n;
+    }
+
+    /** Plays a legal move for the side to move. Callers are trusted; use isLegal for user input. */
+    public void makeMove(int move) {
+        int sub = move / 9;
+        int bit = 1 << (move % 9);
+        moveStack[ply] = move;
+        forcedStack[ply] = forced;
+        ply++;
+
+        int subBit = 1 << sub;
+        if (side == 0) {
+            int m = xs[sub] |= bit;
+            if (WIN[m]) metaX |= subBit;
+            else if ((m | os[sub]) == FULL) metaDraw |= subBit;
+        } else {
+            int m = os[sub] |= bit;
+            if (WIN[m]) metaO |= subBit;
+            else if ((m | xs[sub]) == FULL) metaDraw |= subBit;
+        }
+
+        int next = move % 9;
+        forced = (((metaX | metaO | metaDraw) & (1 << next)) != 0) ? ANY : next;
+        side ^= 1;
+    }
+
+    /** Takes back the last move made with makeMove. */
+    public void undoMove() {
+        ply--;
+        int move = moveStack[ply];
+        int sub = move / 9;
+        int bit = 1 << (move % 9);
+        side ^= 1;
+        forced = forcedStack[ply];
+
+        // the sub-board was open before this move, so any decision came from it
+        int keep = ~(1 << sub);
+        metaX &= keep;
+        metaO &= keep;
+        metaDraw &= keep;
+        if (side == 0) xs[sub] &= ~bit;
+        else os[sub] &= ~bit;
+    }
+
+    public int getLastMove() {
+        return ply > 0 ? moveStack[ply - 1] : -1;
+    }
+}